@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2012 - 2014, S2H Mobile
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.s2hmobile.location;
+
+import android.annotation.TargetApi;
+import android.location.Location;
+import android.os.Build;
+
+/**
+ * Contains static helper methods to determine the age of a location fix. The
+ * age is based on the elapsed realtime clock where possible, since the wall
+ * clock used by {@link Location#getTime()} can jump.
+ *
+ * @author Stephan Hoehne
+ */
+public final class FixAge {
+
+	/** Age of a fix whose time is unknown. */
+	public static final long UNKNOWN = Long.MAX_VALUE;
+
+	/** Nanoseconds per millisecond. */
+	private static final long NANOS_PER_MILLI = 1000000L;
+
+	private FixAge() {
+	}
+
+	/**
+	 * Returns the age of a live location fix. On API level 17 and above, the
+	 * elapsed realtime of the fix is used. On older platforms, or if the
+	 * provider did not set the elapsed realtime, the age falls back to the
+	 * wall clock.
+	 *
+	 * @param location
+	 *            - the location fix
+	 * @param clock
+	 *            - the clock to measure against
+	 * @return The age in milliseconds, or {@link #UNKNOWN}.
+	 */
+	public static long of(final Location location, final LocationClock clock) {
+		if (location == null) {
+			return UNKNOWN;
+		}
+
+		final long elapsed = elapsedRealtimeMillis(location);
+		if (elapsed > 0) {
+			return clamp(clock.elapsedRealtime() - elapsed);
+		}
+		return ofWallClock(location.getTime(), clock);
+	}
+
+	/**
+	 * Returns the age of a persisted location fix. The elapsed realtime is only
+	 * used if the fix was taken during the current boot, otherwise the age
+	 * falls back to the wall clock.
+	 *
+	 * @param elapsed
+	 *            - the elapsed realtime of the fix in milliseconds
+	 * @param bootId
+	 *            - the boot id at the time of the fix, may be null
+	 * @param time
+	 *            - the wall clock time of the fix in milliseconds
+	 * @param clock
+	 *            - the clock to measure against
+	 * @return The age in milliseconds, or {@link #UNKNOWN}.
+	 */
+	public static long ofPersisted(final long elapsed, final String bootId,
+			final long time, final LocationClock clock) {
+		if (elapsed > 0 && bootId != null && bootId.equals(clock.getBootId())) {
+			return clamp(clock.elapsedRealtime() - elapsed);
+		}
+		return ofWallClock(time, clock);
+	}
+
+	/**
+	 * Returns the elapsed realtime of the location fix, derived from its age.
+	 * The result can be persisted together with the boot id of the clock.
+	 *
+	 * @param location
+	 *            - the location fix
+	 * @param clock
+	 *            - the clock to measure against
+	 * @return The elapsed realtime in milliseconds, or zero if the age is
+	 *         unknown.
+	 */
+	static long elapsedRealtimeOf(final Location location,
+			final LocationClock clock) {
+		final long age = of(location, clock);
+		return age == UNKNOWN ? 0L : clock.elapsedRealtime() - age;
+	}
+
+	/**
+	 * Age against the wall clock, the only option for fixes without elapsed
+	 * realtime. A fix from the future is treated as brand new.
+	 */
+	private static long ofWallClock(final long time, final LocationClock clock) {
+		if (time <= 0) {
+			return UNKNOWN;
+		}
+		return clamp(clock.currentTimeMillis() - time);
+	}
+
+	private static long clamp(final long age) {
+		return age < 0 ? 0 : age;
+	}
+
+	@TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR1)
+	private static long elapsedRealtimeMillis(final Location location) {
+		if (Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN_MR1) {
+			return 0L;
+		}
+		return location.getElapsedRealtimeNanos() / NANOS_PER_MILLI;
+	}
+}
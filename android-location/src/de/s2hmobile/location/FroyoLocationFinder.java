@@ -42,7 +42,7 @@ public class FroyoLocationFinder extends LocationFinderBase {
 			// evaluate update
 			if (mCallback != null) {
 				final Location betterLocation = LocationFinderBase
-						.betterLocation(newLocation, mCurrentLocation);
+						.betterLocation(newLocation, mCurrentLocation, mClock);
 				mCallback.onLocationUpdate(betterLocation);
 			}
 		}
@@ -68,8 +68,8 @@ public class FroyoLocationFinder extends LocationFinderBase {
 	 *            - for the system service and to get the main looper
 	 */
 	FroyoLocationFinder(final Context context,
-			final OnLocationUpdateListener callback) {
-		super(context, callback);
+			final OnLocationUpdateListener callback, final LocationClock clock) {
+		super(context, callback, clock);
 	}
 
 	/** {@inheritDoc} */
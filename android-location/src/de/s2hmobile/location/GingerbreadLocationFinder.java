@@ -61,7 +61,7 @@ public class GingerbreadLocationFinder extends LocationFinderBase {
 
 				// send back the better location
 				final Location betterLocation = LocationFinderBase
-						.betterLocation(newLocation, mCurrentLocation);
+						.betterLocation(newLocation, mCurrentLocation, mClock);
 				mCallback.onLocationUpdate(betterLocation);
 			}
 		}
@@ -69,8 +69,8 @@ public class GingerbreadLocationFinder extends LocationFinderBase {
 	};
 
 	GingerbreadLocationFinder(final Context context,
-			final OnLocationUpdateListener callback) {
-		super(context, callback);
+			final OnLocationUpdateListener callback, final LocationClock clock) {
+		super(context, callback, clock);
 
 		// create the intent that will be broadcast by the one-shot update
 		mUpdateIntent = PendingIntent.getBroadcast(context, 0, new Intent(
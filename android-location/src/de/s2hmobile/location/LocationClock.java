@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2012 - 2014, S2H Mobile
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.s2hmobile.location;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+
+import android.os.SystemClock;
+
+/**
+ * Source of time for the freshness policies of the library. The default
+ * implementation {@link #SYSTEM} delegates to the platform clocks, a stubbed
+ * implementation can be passed in to test or benchmark the policies.
+ *
+ * @author Stephan Hoehne
+ */
+public interface LocationClock {
+
+	/** The clock backed by {@link SystemClock} and {@link System}. */
+	LocationClock SYSTEM = new LocationClock() {
+
+		/** File containing a random id that is regenerated on every boot. */
+		private static final String BOOT_ID_FILE = "/proc/sys/kernel/random/boot_id";
+
+		private String mBootId = null;
+
+		private boolean mBootIdRead = false;
+
+		@Override
+		public long currentTimeMillis() {
+			return System.currentTimeMillis();
+		}
+
+		@Override
+		public long elapsedRealtime() {
+			return SystemClock.elapsedRealtime();
+		}
+
+		@Override
+		public synchronized String getBootId() {
+			if (!mBootIdRead) {
+
+				// read the file at most once, even if it is not available
+				mBootId = readBootId();
+				mBootIdRead = true;
+			}
+			return mBootId;
+		}
+
+		private String readBootId() {
+			BufferedReader reader = null;
+			try {
+				reader = new BufferedReader(new FileReader(BOOT_ID_FILE));
+				final String line = reader.readLine();
+				return line == null ? null : line.trim();
+			} catch (final IOException e) {
+
+				// boot id not available on this device
+				return null;
+			} finally {
+				if (reader != null) {
+					try {
+						reader.close();
+					} catch (final IOException e) {
+					}
+				}
+			}
+		}
+	};
+
+	/**
+	 * Returns the wall clock time in UTC milliseconds. This clock can jump,
+	 * for example after a network time correction.
+	 *
+	 * @return The current wall clock time.
+	 */
+	long currentTimeMillis();
+
+	/**
+	 * Returns the milliseconds since boot, including time spent in sleep. This
+	 * clock is monotonic.
+	 *
+	 * @return The elapsed realtime.
+	 */
+	long elapsedRealtime();
+
+	/**
+	 * Returns an id that identifies the current boot of the device. Elapsed
+	 * realtime values can only be compared if their boot ids are equal.
+	 *
+	 * @return The boot id, or null if it is not available.
+	 */
+	String getBootId();
+}
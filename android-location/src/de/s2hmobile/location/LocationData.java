@@ -42,6 +42,12 @@ public final class LocationData {
 	/** Key for saving the timestamp in the data file. */
 	private static final String KEY_TIME = "pref_time";
 
+	/** Key for saving the elapsed realtime of the fix in the data file. */
+	private static final String KEY_ELAPSED = "pref_elapsed";
+
+	/** Key for saving the boot id of the elapsed realtime in the data file. */
+	private static final String KEY_BOOT_ID = "pref_boot_id";
+
 	/** Key for accuracy in location data file. */
 	private static final String KEY_ACC = "data_accuracy";
 
@@ -63,6 +69,30 @@ public final class LocationData {
 		return mFile.edit().clear().commit();
 	}
 
+	/**
+	 * Returns the age of the stored location fix, measured with the system
+	 * clock.
+	 * 
+	 * @return The age in milliseconds, or {@link FixAge#UNKNOWN}.
+	 */
+	public long getAge() {
+		return getAge(LocationClock.SYSTEM);
+	}
+
+	/**
+	 * Returns the age of the stored location fix. The elapsed realtime is used
+	 * if the fix was stored during the current boot, the wall clock otherwise.
+	 * 
+	 * @param clock
+	 *            - the clock to measure against
+	 * @return The age in milliseconds, or {@link FixAge#UNKNOWN}.
+	 */
+	public long getAge(final LocationClock clock) {
+		final long elapsed = mFile.getLong(KEY_ELAPSED, 0L);
+		final String bootId = mFile.getString(KEY_BOOT_ID, null);
+		return FixAge.ofPersisted(elapsed, bootId, getTime(), clock);
+	}
+
 	public float getAccuracy() {
 		return mFile.getFloat(KEY_ACC, Float.MAX_VALUE);
 	}
@@ -113,6 +143,21 @@ public final class LocationData {
 	}
 
 	public boolean putLocation(final Location location) {
+		return putLocation(location, LocationClock.SYSTEM);
+	}
+
+	/**
+	 * Stores the location fix together with its elapsed realtime and the boot
+	 * id, so that its age can be determined after a restart of the process.
+	 * 
+	 * @param location
+	 *            - the location fix
+	 * @param clock
+	 *            - the clock to take the elapsed realtime and boot id from
+	 * @return True if the location was saved.
+	 */
+	public boolean putLocation(final Location location,
+			final LocationClock clock) {
 		if (location == null) {
 			return false;
 		}
@@ -121,9 +166,12 @@ public final class LocationData {
 		final double lng = location.getLongitude();
 		final long time = location.getTime();
 		final float accuracy = location.getAccuracy();
+		final long elapsed = FixAge.elapsedRealtimeOf(location, clock);
+		final String bootId = clock.getBootId();
 		return putPosition(lat, lng)
 				&& mFile.edit().putFloat(KEY_ACC, accuracy)
-						.putLong(KEY_TIME, time).commit();
+						.putLong(KEY_TIME, time).putLong(KEY_ELAPSED, elapsed)
+						.putString(KEY_BOOT_ID, bootId).commit();
 	}
 
 	public boolean putPosition(final double lat, final double lng) {
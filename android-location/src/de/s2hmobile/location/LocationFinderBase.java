@@ -17,10 +17,13 @@ abstract class LocationFinderBase implements ILocationFinder {
 
 	protected final LocationManager mLocationManager;
 
+	protected final LocationClock mClock;
+
 	protected LocationFinderBase(final Context context,
-			final OnLocationUpdateListener callback) {
+			final OnLocationUpdateListener callback, final LocationClock clock) {
 		mContext = context;
 		mCallback = callback;
+		mClock = clock;
 		mLocationManager = (LocationManager) context
 				.getSystemService(Context.LOCATION_SERVICE);
 	}
@@ -33,9 +36,11 @@ abstract class LocationFinderBase implements ILocationFinder {
 	 *            - the new location to evaluate
 	 * @param currentBestLocation
 	 *            - the current best fix
+	 * @param clock
+	 *            - the clock to measure the ages of the fixes against
 	 */
 	protected static Location betterLocation(final Location newLocation,
-			final Location currentBestLocation) {
+			final Location currentBestLocation, final LocationClock clock) {
 		if (currentBestLocation == null) {
 
 			// a new location is always better than no location
@@ -45,10 +50,16 @@ abstract class LocationFinderBase implements ILocationFinder {
 			return currentBestLocation;
 		} else {
 
-			// compare the times of the location fixes
+			// compare the ages of the location fixes
 			final long allowedTimeDelta = 2 * DateUtils.MINUTE_IN_MILLIS;
-			final long timeDelta = newLocation.getTime()
-					- currentBestLocation.getTime();
+			final long newAge = FixAge.of(newLocation, clock);
+			final long currentAge = FixAge.of(currentBestLocation, clock);
+			if (newAge == FixAge.UNKNOWN || currentAge == FixAge.UNKNOWN) {
+
+				// prefer the fix with a known age
+				return newAge <= currentAge ? newLocation : currentBestLocation;
+			}
+			final long timeDelta = currentAge - newAge;
 
 			if (timeDelta > allowedTimeDelta) {
 
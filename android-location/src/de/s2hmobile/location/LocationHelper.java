@@ -69,9 +69,60 @@ public final class LocationHelper {
 	 */
 	public static Location getLastBestLocation(final Context context,
 			final long minTime) {
+		return getLastBestLocation(context, minTime, LocationClock.SYSTEM);
+	}
+
+	/**
+	 * Find the most accurate and timely previously detected location using all
+	 * the location providers. The time limit is converted to a maximum age
+	 * once, the fixes are then compared by their age on the elapsed realtime
+	 * clock.
+	 * 
+	 * @param context
+	 *            the context, to get the location manager
+	 * @param minTime
+	 *            the time limit
+	 * @param clock
+	 *            the clock to measure the ages of the fixes against
+	 * @return The most accurate and / or timely previously detected location.
+	 */
+	public static Location getLastBestLocation(final Context context,
+			final long minTime, final LocationClock clock) {
+		final long now = clock.currentTimeMillis();
+
+		/*
+		 * A non-positive limit means there is no limit. A limit in the future,
+		 * e.g. after the wall clock stepped back, means no fix is recent.
+		 */
+		final long maxAge;
+		if (minTime <= 0) {
+			maxAge = FixAge.UNKNOWN;
+		} else if (minTime > now) {
+			maxAge = 0L;
+		} else {
+			maxAge = now - minTime;
+		}
+		return findLastBestLocation(context, maxAge, clock);
+	}
+
+	/**
+	 * Find the most accurate previously detected location that is younger than
+	 * the maximum age. If there is none, find the youngest one.
+	 * 
+	 * @param context
+	 *            the context, to get the location manager
+	 * @param maxAge
+	 *            the maximum age in milliseconds, or {@link FixAge#UNKNOWN}
+	 *            for no limit
+	 * @param clock
+	 *            the clock to measure the ages of the fixes against
+	 * @return The most accurate and / or timely previously detected location.
+	 */
+	private static Location findLastBestLocation(final Context context,
+			final long maxAge, final LocationClock clock) {
 		Location bestLocation = null;
 		float bestAccuracy = Float.MAX_VALUE;
-		long bestTime = Long.MIN_VALUE;
+		long bestAge = FixAge.UNKNOWN;
 		final LocationManager locationManager = (LocationManager) context
 				.getSystemService(Context.LOCATION_SERVICE);
 		final List<String> matchingProviders = locationManager
@@ -81,22 +132,24 @@ public final class LocationHelper {
 					.getLastKnownLocation(provider);
 			if (location != null) {
 				final float accuracy = location.getAccuracy();
-				final long time = location.getTime();
-				if (minTime < time && accuracy < bestAccuracy) {
+				final long age = FixAge.of(location, clock);
+				final boolean recent = maxAge == FixAge.UNKNOWN || age < maxAge;
+				if (recent && accuracy < bestAccuracy) {
 
 					/*
-					 * This location fix is younger than minTime, its accuracy
+					 * This location fix is younger than maxAge, its accuracy
 					 * is better than the current best value.
 					 */
 					bestLocation = location;
 					bestAccuracy = accuracy;
-					bestTime = time;
-				} else if (time < minTime && bestAccuracy == Float.MAX_VALUE
-						&& bestTime < time) {
+					bestAge = age;
+				} else if (age > maxAge && bestAccuracy == Float.MAX_VALUE
+						&& (bestLocation == null || age < bestAge)) {
 
 					/*
 					 * First condition not met, since candidate is older than
-					 * minTime but younger than current bestResult.
+					 * maxAge but younger than current bestResult. A fix of
+					 * unknown age is still taken as a last resort.
 					 */
 					bestLocation = location;
 
@@ -104,7 +157,7 @@ public final class LocationHelper {
 					 * Accuracy not updated, so the condition can be met by the
 					 * next candidate.
 					 */
-					bestTime = time;
+					bestAge = age;
 				}
 			}
 		}
@@ -123,22 +176,37 @@ public final class LocationHelper {
 	 */
 	public static void requestLocation(final Context context,
 			final OnLocationUpdateListener listener) {
+		requestLocation(context, listener, LocationClock.SYSTEM);
+	}
 
-		// set the time limit
-		final long limit = System.currentTimeMillis() - DEFAULT_TIME_LIMIT;
+	/**
+	 * Asks for the last best location, measuring the age of the fixes with the
+	 * given clock. If it is not good enough, requests a single update.
+	 * 
+	 * @param context
+	 *            - for the location system service
+	 * @param listener
+	 *            - callback for location update
+	 * @param clock
+	 *            - the clock to measure the ages of the fixes against
+	 */
+	public static void requestLocation(final Context context,
+			final OnLocationUpdateListener listener, final LocationClock clock) {
 
 		// ask for last best location
-		final Location lastBestLocation = getLastBestLocation(context, limit);
+		final Location lastBestLocation = findLastBestLocation(context,
+				DEFAULT_TIME_LIMIT, clock);
 
 		// evaluate the result
-		if (LocationHelper.isLocationAccepted(lastBestLocation, limit)) {
+		if (LocationHelper.isLocationAccepted(lastBestLocation,
+				DEFAULT_TIME_LIMIT, clock)) {
 
 			listener.onLocationUpdate(lastBestLocation);
 		} else {
 
 			// trigger one-shot update
 			final ILocationFinder finder = LocationHelper.createInstance(
-					context, listener);
+					context, listener, clock);
 			finder.oneShotUpdate(lastBestLocation);
 		}
 	}
@@ -151,38 +219,38 @@ public final class LocationHelper {
 	 *            - for the location system service
 	 * @param listener
 	 *            - the listener to return the result to
+	 * @param clock
+	 *            - the clock to measure the ages of the fixes against
 	 * @return The location finder instance.
 	 */
 	private static ILocationFinder createInstance(final Context context,
-			final OnLocationUpdateListener listener) {
+			final OnLocationUpdateListener listener, final LocationClock clock) {
 		return Build.VERSION.SDK_INT >= Build.VERSION_CODES.GINGERBREAD ? new GingerbreadLocationFinder(
-				context, listener) : new FroyoLocationFinder(context, listener);
+				context, listener, clock) : new FroyoLocationFinder(context,
+				listener, clock);
 	}
 
 	/**
 	 * Evaluates the quality of the location based on its age and accuracy. The
-	 * criteria are defined as constants. The time limit should be determined
-	 * using the basic equation limit = now - age.
+	 * criteria are defined as constants. The age is measured on the elapsed
+	 * realtime clock where possible, see {@link FixAge}.
 	 * 
 	 * @param location
 	 *            - the location to evaluate
-	 * @param limit
+	 * @param maxAge
 	 *            - the maximum age of the location fix
+	 * @param clock
+	 *            - the clock to measure the age against
 	 * @return True if location meets criteria.
 	 */
 	private static boolean isLocationAccepted(final Location location,
-			final long limit) {
+			final long maxAge, final LocationClock clock) {
 		if (location == null) {
 			return false;
 		}
 
-		/*
-		 * Location.getTime() and System.currentTimeMillis() both use UTC time
-		 * which can jump. For API Level 17, use
-		 * Location.getElapsedRealtimeNanos() and System.elapsedRealtimeNanos().
-		 */
-		final long time = location.getTime();
+		final long age = FixAge.of(location, clock);
 		final float accuracy = location.getAccuracy();
-		return limit < time && accuracy < ALLOWED_ACCURACY_DELTA;
+		return age < maxAge && accuracy < ALLOWED_ACCURACY_DELTA;
 	}
 }
\ No newline at end of file